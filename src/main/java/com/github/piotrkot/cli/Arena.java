@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.Arrays;
+
+/**
+ * Command line arguments packed into a single array of characters.
+ * Arguments are delimited by a table of offsets and strings are created
+ * only when asked for, so that very large argument vectors take little
+ * more memory than their characters.
+ *
+ * @since 1.4
+ */
+public final class Arena {
+    /**
+     * Initial capacity of arrays.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Characters of all arguments.
+     */
+    private final char[] chars;
+
+    /**
+     * Offsets of arguments in characters. Offset of the argument following
+     * the last one is the total number of characters.
+     */
+    private final int[] offsets;
+
+    /**
+     * Class constructor.
+     *
+     * @param arguments Command line arguments.
+     */
+    public Arena(final CharSequence... arguments) {
+        this(Arrays.asList(arguments));
+    }
+
+    /**
+     * Class constructor. Arguments are iterated once, so they may be read
+     * lazily, e.g. from lines of a file by {@code new Arena(lines::iterator)}.
+     *
+     * @param arguments Command line arguments.
+     * @param <T> Type of arguments.
+     */
+    public <T extends CharSequence> Arena(final Iterable<T> arguments) {
+        char[] data = new char[Arena.CAPACITY];
+        int[] offs = new int[Arena.CAPACITY];
+        int count = 0;
+        int total = 0;
+        for (final CharSequence arg : arguments) {
+            if (count + 1 == offs.length) {
+                offs = Arrays.copyOf(offs, offs.length << 1);
+            }
+            final int len = arg.length();
+            if (total + len > data.length) {
+                data = Arrays.copyOf(
+                    data, Math.max(data.length << 1, total + len)
+                );
+            }
+            if (arg instanceof String) {
+                ((String) arg).getChars(0, len, data, total);
+            } else {
+                for (int pos = 0; pos < len; ++pos) {
+                    data[total + pos] = arg.charAt(pos);
+                }
+            }
+            total += len;
+            ++count;
+            offs[count] = total;
+        }
+        this.chars = Arrays.copyOf(data, total);
+        this.offsets = Arrays.copyOf(offs, count + 1);
+    }
+
+    /**
+     * Number of arguments.
+     *
+     * @return Count of arguments.
+     */
+    public int size() {
+        return this.offsets.length - 1;
+    }
+
+    /**
+     * Arguments accessed by their positions and characters.
+     *
+     * @return Arguments view.
+     */
+    Tokens tokens() {
+        return new ArenaTokens(this.chars, this.offsets);
+    }
+}
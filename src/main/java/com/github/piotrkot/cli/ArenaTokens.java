@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+/**
+ * Command line arguments of {@link Arena}, accessed by their positions
+ * and characters.
+ *
+ * @since 1.4
+ */
+final class ArenaTokens implements Tokens {
+    /**
+     * Characters of all arguments.
+     */
+    private final char[] chars;
+
+    /**
+     * Offsets of arguments in characters. Offset of the argument following
+     * the last one is the total number of characters.
+     */
+    private final int[] offsets;
+
+    /**
+     * Class constructor.
+     *
+     * @param chars Characters of all arguments.
+     * @param offsets Offsets of arguments in characters, followed by
+     *  the total number of characters.
+     */
+    ArenaTokens(final char[] chars, final int[] offsets) {
+        this.chars = chars;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public int size() {
+        return this.offsets.length - 1;
+    }
+
+    @Override
+    public int length(final int index) {
+        return this.offsets[index + 1] - this.offsets[index];
+    }
+
+    @Override
+    public char charAt(final int index, final int pos) {
+        return this.chars[this.offsets[index] + pos];
+    }
+
+    @Override
+    public int breaks(final int index) {
+        return Lines.breaks(
+            this.chars, this.offsets[index], this.offsets[index + 1]
+        );
+    }
+
+    @Override
+    public boolean regionMatches(final int index, final int offset,
+        final String text, final int from) {
+        final int len = text.length() - from;
+        boolean matches = offset >= 0 && from >= 0
+            && offset + len <= this.length(index);
+        final int start = this.offsets[index] + offset;
+        for (int pos = 0; matches && pos < len; ++pos) {
+            matches = this.chars[start + pos] == text.charAt(from + pos);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean same(final int index, final int other) {
+        final int len = this.length(index);
+        boolean same = len == this.length(other);
+        for (int pos = 0; same && pos < len; ++pos) {
+            same = this.chars[this.offsets[index] + pos]
+                == this.chars[this.offsets[other] + pos];
+        }
+        return same;
+    }
+
+    @Override
+    public int hash(final int index) {
+        int hash = 0;
+        for (int pos = this.offsets[index]; pos < this.offsets[index + 1];
+            ++pos) {
+            hash = 31 * hash + this.chars[pos];
+        }
+        return hash;
+    }
+
+    @Override
+    public CharSequence slice(final int index, final int from) {
+        return new Slice(
+            this.chars, this.offsets[index] + from, this.offsets[index + 1]
+        );
+    }
+
+    @Override
+    public String string(final int index) {
+        return new String(
+            this.chars, this.offsets[index], this.length(index)
+        );
+    }
+
+    /**
+     * View of characters range.
+     */
+    private static final class Slice implements CharSequence {
+        /**
+         * Characters.
+         */
+        private final char[] chars;
+
+        /**
+         * Start of range, inclusive.
+         */
+        private final int start;
+
+        /**
+         * End of range, exclusive.
+         */
+        private final int end;
+
+        /**
+         * Class constructor.
+         *
+         * @param chars Characters.
+         * @param start Start of range, inclusive.
+         * @param end End of range, exclusive.
+         */
+        Slice(final char[] chars, final int start, final int end) {
+            this.chars = chars;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= this.length()) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return this.chars[this.start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int from, final int till) {
+            if (from < 0 || from > till || till > this.length()) {
+                throw new IndexOutOfBoundsException(
+                    String.format("%d-%d", from, till)
+                );
+            }
+            return new Slice(this.chars, this.start + from, this.start + till);
+        }
+
+        @Override
+        public String toString() {
+            return new String(this.chars, this.start, this.length());
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of command line arguments. Equal argument vectors share
+ * one already indexed, immutable {@link CommandLineArgs}. When cache is full,
+ * entries not used recently are evicted across the whole cache, by the clock
+ * approximation of least recently used order.
+ *
+ * <p>Cached arguments are taken without locking. Only parsed arguments
+ * added to cache wait for each other.
+ *
+ * <p>Arguments are searched by {@link IndexEngine} unless other engine
+ * is given.
+ *
+ * @since 1.4
+ */
+public final class ArgsCache {
+    /**
+     * Helping exception.
+     */
+    private final HelpException help;
+
+    /**
+     * Suggestions of known option names.
+     */
+    private final Suggestions suggestions;
+
+    /**
+     * Engines for argument vectors.
+     */
+    private final Function<String[], Engine> engines;
+
+    /**
+     * Cached entries by argument vector.
+     */
+    private final Map<Key, Entry> entries;
+
+    /**
+     * Cached entries in clock order, also lock for adding entries.
+     */
+    private final Entry[] ring;
+
+    /**
+     * Position of clock hand in ring.
+     */
+    private int hand;
+
+    /**
+     * Number of cache hits.
+     */
+    private final LongAdder found;
+
+    /**
+     * Number of cache misses.
+     */
+    private final LongAdder missed;
+
+    /**
+     * Class constructor.
+     *
+     * @param capacity Maximal number of cached argument vectors.
+     */
+    public ArgsCache(final int capacity) {
+        this(new HelpException("Wrong usage of arguments"), capacity);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param capacity Maximal number of cached argument vectors.
+     */
+    public ArgsCache(final HelpException help, final int capacity) {
+        this(help, new Suggestions(), capacity);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param suggestions Suggestions of known option names attached to help
+     *  when option is not found.
+     * @param capacity Maximal number of cached argument vectors.
+     */
+    public ArgsCache(final HelpException help, final Suggestions suggestions,
+        final int capacity) {
+        this(help, suggestions, IndexEngine::new, capacity);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param suggestions Suggestions of known option names attached to help
+     *  when option is not found.
+     * @param engines Engines for argument vectors, e.g.
+     *  {@code RegexEngine::new}.
+     * @param capacity Maximal number of cached argument vectors.
+     */
+    public ArgsCache(final HelpException help, final Suggestions suggestions,
+        final Function<String[], Engine> engines, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                String.format("Capacity %d is not positive", capacity)
+            );
+        }
+        this.help = help;
+        this.suggestions = suggestions;
+        this.engines = engines;
+        this.entries = new ConcurrentHashMap<>(capacity);
+        this.ring = new Entry[capacity];
+        this.found = new LongAdder();
+        this.missed = new LongAdder();
+    }
+
+    /**
+     * Command line arguments for given argument vector, taken from cache
+     * or parsed and cached.
+     *
+     * @param arguments Command line arguments.
+     * @return Command line arguments shared by equal argument vectors.
+     */
+    public CommandLineArgs args(final String... arguments) {
+        final Key key = new Key(arguments);
+        final Entry entry = this.entries.get(key);
+        final CommandLineArgs args;
+        if (entry == null) {
+            this.missed.increment();
+            final Key stored = key.copy();
+            args = this.add(
+                stored,
+                new CommandLineArgs(
+                    this.help, this.suggestions,
+                    this.engines.apply(stored.args)
+                )
+            );
+        } else {
+            this.found.increment();
+            entry.use();
+            args = entry.args;
+        }
+        return args;
+    }
+
+    /**
+     * Number of times arguments were taken from cache.
+     *
+     * @return Count of cache hits.
+     */
+    public long hits() {
+        return this.found.sum();
+    }
+
+    /**
+     * Number of times arguments were parsed.
+     *
+     * @return Count of cache misses.
+     */
+    public long misses() {
+        return this.missed.sum();
+    }
+
+    /**
+     * Number of cached argument vectors.
+     *
+     * @return Count of cache entries.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Adds parsed arguments to cache, unless other thread added them first.
+     * Slot for new entry is found by the clock hand, which skips and clears
+     * entries used since it last passed them.
+     *
+     * @param key Argument vector stored in cache.
+     * @param parsed Parsed arguments.
+     * @return Arguments in cache.
+     */
+    private CommandLineArgs add(final Key key, final CommandLineArgs parsed) {
+        synchronized (this.ring) {
+            Entry entry = this.entries.get(key);
+            if (entry == null) {
+                while (this.ring[this.hand] != null
+                    && this.ring[this.hand].clear()) {
+                    this.hand = (this.hand + 1) % this.ring.length;
+                }
+                if (this.ring[this.hand] != null) {
+                    this.entries.remove(this.ring[this.hand].key);
+                }
+                entry = new Entry(key, parsed);
+                this.ring[this.hand] = entry;
+                this.entries.put(key, entry);
+                this.hand = (this.hand + 1) % this.ring.length;
+            }
+            return entry.args;
+        }
+    }
+
+    /**
+     * Cached arguments with a flag of recent use.
+     */
+    private static final class Entry {
+        /**
+         * Argument vector.
+         */
+        private final Key key;
+
+        /**
+         * Parsed arguments.
+         */
+        private final CommandLineArgs args;
+
+        /**
+         * Whether entry was used since clock hand passed it.
+         */
+        private volatile boolean used;
+
+        /**
+         * Class constructor.
+         *
+         * @param key Argument vector.
+         * @param args Parsed arguments.
+         */
+        Entry(final Key key, final CommandLineArgs args) {
+            this.key = key;
+            this.args = args;
+        }
+
+        /**
+         * Marks entry as recently used.
+         */
+        void use() {
+            if (!this.used) {
+                this.used = true;
+            }
+        }
+
+        /**
+         * Clears recent use of entry.
+         *
+         * @return Whether entry was used recently.
+         */
+        boolean clear() {
+            final boolean was = this.used;
+            this.used = false;
+            return was;
+        }
+    }
+
+    /**
+     * Argument vector compared by its content. Key used for lookup refers
+     * to given arguments, while key stored in cache has their copy.
+     */
+    private static final class Key {
+        /**
+         * Command line arguments.
+         */
+        private final String[] args;
+
+        /**
+         * Hash code of arguments content.
+         */
+        private final int hash;
+
+        /**
+         * Class constructor.
+         *
+         * @param arguments Command line arguments.
+         */
+        Key(final String... arguments) {
+            this(arguments, Arrays.hashCode(arguments));
+        }
+
+        /**
+         * Class constructor.
+         *
+         * @param arguments Command line arguments.
+         * @param hash Hash code of arguments content.
+         */
+        private Key(final String[] arguments, final int hash) {
+            this.args = arguments;
+            this.hash = hash;
+        }
+
+        /**
+         * Key with a copy of arguments, safe to store in cache.
+         *
+         * @return Key not affected by changes of given arguments.
+         */
+        Key copy() {
+            return new Key(this.args.clone(), this.hash);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || obj instanceof Key
+                && this.hash == ((Key) obj).hash
+                && Arrays.equals(this.args, ((Key) obj).args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+/**
+ * Command line arguments kept as given strings. Arguments may be replaced
+ * by other ones, so that the object is reused.
+ *
+ * @since 1.4
+ */
+final class ArrayTokens implements Tokens {
+    /**
+     * Command line arguments.
+     */
+    private String[] args;
+
+    /**
+     * Class constructor.
+     *
+     * @param arguments Command line arguments.
+     */
+    ArrayTokens(final String... arguments) {
+        this.args = arguments;
+    }
+
+    /**
+     * Replaces arguments with other ones.
+     *
+     * @param arguments Command line arguments.
+     */
+    void reset(final String... arguments) {
+        this.args = arguments;
+    }
+
+    @Override
+    public int size() {
+        return this.args.length;
+    }
+
+    @Override
+    public int length(final int index) {
+        return this.args[index].length();
+    }
+
+    @Override
+    public char charAt(final int index, final int pos) {
+        return this.args[index].charAt(pos);
+    }
+
+    @Override
+    public int breaks(final int index) {
+        return Lines.breaks(this.args[index]);
+    }
+
+    @Override
+    public boolean regionMatches(final int index, final int offset,
+        final String text, final int from) {
+        return this.args[index].regionMatches(
+            offset, text, from, text.length() - from
+        );
+    }
+
+    @Override
+    public boolean same(final int index, final int other) {
+        return this.args[index].equals(this.args[other]);
+    }
+
+    @Override
+    public int hash(final int index) {
+        return this.args[index].hashCode();
+    }
+
+    @Override
+    public CharSequence slice(final int index, final int from) {
+        return this.args[index].substring(from);
+    }
+
+    @Override
+    public String string(final int index) {
+        return this.args[index];
+    }
+}
@@ -24,15 +24,12 @@
 package com.github.piotrkot.cli;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 /**
  * Main Command Line class which finds options in simple and object oriented
@@ -42,15 +39,20 @@ import java.util.regex.Pattern;
  */
 public final class CommandLineArgs {
     /**
-     * Command line arguments.
+     * Engine finding options.
      */
-    private final Collection<String> args;
+    private final Engine engine;
 
     /**
      * Helping exception.
      */
     private final HelpException help;
 
+    /**
+     * Suggestions of known option names.
+     */
+    private final Suggestions suggestions;
+
     /**
      * Class constructor.
      *
@@ -67,8 +69,68 @@ public final class CommandLineArgs {
      * @param arguments Command line arguments.
      */
     public CommandLineArgs(final HelpException help, final String... arguments) {
-        this.args = Arrays.asList(arguments);
+        this(help, new Suggestions(), arguments);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param suggestions Suggestions of known option names attached to help
+     *  when option is not found.
+     * @param arguments Command line arguments.
+     */
+    public CommandLineArgs(final HelpException help,
+        final Suggestions suggestions, final String... arguments) {
+        this(help, suggestions, new IndexEngine(arguments));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param arena Command line arguments packed into arena.
+     */
+    public CommandLineArgs(final HelpException help, final Arena arena) {
+        this(help, new Suggestions(), arena);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param suggestions Suggestions of known option names attached to help
+     *  when option is not found.
+     * @param arena Command line arguments packed into arena.
+     */
+    public CommandLineArgs(final HelpException help,
+        final Suggestions suggestions, final Arena arena) {
+        this(help, suggestions, new IndexEngine(arena));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param engine Engine finding options in command line arguments.
+     */
+    public CommandLineArgs(final HelpException help, final Engine engine) {
+        this(help, new Suggestions(), engine);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param suggestions Suggestions of known option names attached to help
+     *  when option is not found.
+     * @param engine Engine finding options in command line arguments.
+     */
+    public CommandLineArgs(final HelpException help,
+        final Suggestions suggestions, final Engine engine) {
+        this.engine = engine;
         this.help = help;
+        this.suggestions = suggestions;
     }
 
     /**
@@ -77,23 +139,32 @@ public final class CommandLineArgs {
      * @param name Option name, that is a string right after the option dash.
      * @return List of Options found for given name.
      */
-    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
     public Iterable<Option> findOption(final String name) {
-        final List<Option> options = new LinkedList<>();
-        final String main = String.format("^-+%s.*", Pattern.quote(name));
-        final String dash = String.format("^-+%s", Pattern.quote(name));
-        final FetchSubList<String> params = new FetchSubList<>(this.args);
-        for (final String param : params) {
-            if (param.matches(main)) {
-                options.add(
-                    new Option(
-                        param.replaceFirst(dash, ""),
-                        params.fetchUntil(param, s -> s.matches(main))
-                    )
-                );
-            }
-        }
-        return options;
+        return this.engine.options(name);
+    }
+
+    /**
+     * Finds options by many names at once. The default engine does it in
+     * a single pass over arguments. Example: <br>
+     * When command line is {@code -Xmx2048m -Dp=1}, then names {@code Xmx}
+     * and {@code D} have one option each.
+     *
+     * @param names Option names, that are strings right after the option dash.
+     * @return Lists of Options found by name, in order of names.
+     */
+    public Map<String, Iterable<Option>> findOptions(final String... names) {
+        return this.findOptions(new Names(names));
+    }
+
+    /**
+     * Finds options by many names compiled once. The same names may be
+     * searched for in many command line arguments.
+     *
+     * @param names Option names, that are strings right after the option dash.
+     * @return Lists of Options found by name, in order of names.
+     */
+    public Map<String, Iterable<Option>> findOptions(final Names names) {
+        return Collections.unmodifiableMap(this.engine.options(names));
     }
 
     /**
@@ -101,14 +172,30 @@ public final class CommandLineArgs {
      *
      * @param name Option name, that is a string right after the option dash.
      * @return First Option found for given name.
-     * @throws IOException When there is no option found.
+     * @throws IOException When there is no option found. Thrown help has
+     *  known option names similar to unknown options typed attached, if
+     *  there are any.
      */
     public Option findFirstOption(final String name) throws IOException {
         final Iterator<Option> options = this.findOption(name).iterator();
         if (options.hasNext()) {
             return options.next();
         }
-        throw this.help;
+        throw this.help.suggest(
+            this.suggestions.similar(this.findOption(""))
+        );
+    }
+
+    /**
+     * Gets operands, that are arguments not starting with a dash and all
+     * arguments after {@code --}. Example: <br>
+     * When command line is {@code -cf archive.tar foo bar}, then operands are
+     * {@code archive.tar}, {@code foo} and {@code bar}.
+     *
+     * @return List of operands in order of arguments.
+     */
+    public List<String> getOperands() {
+        return Collections.unmodifiableList(this.engine.operands());
     }
 
     /**
@@ -121,48 +208,4 @@ public final class CommandLineArgs {
         this.findOption("").forEach(coll::add);
         return Collections.unmodifiableCollection(coll);
     }
-
-    /**
-     * Linked list that can fetch elements according to given predicate.
-     *
-     * @param <E> Type of elements in the list.
-     */
-    private static class FetchSubList<E> extends LinkedList<E> {
-        /**
-         * Serial version.
-         */
-        private static final long serialVersionUID = 0L;
-
-        /**
-         * Class constructor.
-         *
-         * @param coll Collection of elements to be placed in the list.
-         */
-        FetchSubList(final Collection<? extends E> coll) {
-            super(coll);
-        }
-
-        /**
-         * Fetches elements from the list starting at given element. Elements
-         * are fetched until the predicate is satisfied.
-         *
-         * @param elem Starting element.
-         * @param pred Predicate for fetch.
-         * @return Collection of elements satisfying predicate.
-         */
-        public Collection<E> fetchUntil(final E elem, final Predicate<E> pred) {
-            final Collection<E> collection = new LinkedList<>();
-            final ListIterator<E> iter =
-                this.listIterator(this.indexOf(elem) + 1);
-            while (iter.hasNext()) {
-                final E next = iter.next();
-                if (pred.test(next)) {
-                    break;
-                } else {
-                    collection.add(next);
-                }
-            }
-            return collection;
-        }
-    }
 }
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine finding options within command line arguments. Engines differ in
+ * how they search arguments, but they all find the same options.
+ * Arguments after {@code --} are never options.
+ *
+ * @since 1.4
+ */
+public interface Engine {
+    /**
+     * Finds options by name.
+     *
+     * @param name Option name, that is a string right after the option dash.
+     * @return List of Options found for given name.
+     */
+    Iterable<Option> options(String name);
+
+    /**
+     * Operands, that are arguments not starting with a dash and all
+     * arguments after {@code --}. Example: <br>
+     * When command line is {@code -cf archive.tar foo -- -bar}, then
+     * operands are {@code archive.tar}, {@code foo} and {@code -bar}.
+     *
+     * @return List of operands in order of arguments.
+     */
+    List<String> operands();
+
+    /**
+     * Finds options by many names at once. Options found for a name are
+     * the same as found by {@link #options(String)}.
+     *
+     * @param names Option names.
+     * @return Lists of Options found by name, in order of names.
+     */
+    default Map<String, Iterable<Option>> options(Names names) {
+        final Map<String, Iterable<Option>> options = new LinkedHashMap<>();
+        for (final String name : names) {
+            options.put(name, this.options(name));
+        }
+        return options;
+    }
+}
@@ -24,6 +24,10 @@
 package com.github.piotrkot.cli;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Command Line help as an exception.
@@ -31,12 +35,61 @@ import java.io.IOException;
  * @since 1.0
  */
 public final class HelpException extends IOException {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Option names suggested instead of the one not found.
+     */
+    private final List<String> names;
+
     /**
      * Class constructor.
      *
      * @param message Message explaining how to use command line parameters.
      */
     public HelpException(final String message) {
+        this(message, Collections.emptyList());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param message Message explaining how to use command line parameters.
+     * @param suggestions Option names suggested instead of the one not found.
+     */
+    public HelpException(final String message,
+        final Collection<String> suggestions) {
         super(message);
+        this.names = Collections.unmodifiableList(
+            new ArrayList<>(suggestions)
+        );
+    }
+
+    /**
+     * Option names suggested instead of the one not found. Example: <br>
+     * When option {@code --verbos} is not found and {@code verbose} is
+     * a known option name, then {@code verbose} is suggested.
+     *
+     * @return List of suggested option names, possibly empty.
+     */
+    public List<String> suggestions() {
+        return this.names;
+    }
+
+    /**
+     * Help with suggested option names attached.
+     *
+     * @param suggestions Option names suggested instead of the one not found.
+     * @return This help if there are no suggestions or new help with them.
+     */
+    public HelpException suggest(final Collection<String> suggestions) {
+        HelpException help = this;
+        if (!suggestions.isEmpty()) {
+            help = new HelpException(this.getMessage(), suggestions);
+        }
+        return help;
     }
 }
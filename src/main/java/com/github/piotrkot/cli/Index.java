@@ -0,0 +1,424 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of command line arguments starting with a dash, that is arguments
+ * which may be options. It is built in a single pass over arguments and
+ * then every option search looks at indexed arguments only. The same pass
+ * records operands, that is arguments not starting with a dash. Arguments
+ * after {@code --} are all operands and they are not looked at.
+ *
+ * <p>Index may be reset to other arguments, reusing its arrays. Index
+ * which is reset is not thread-safe.
+ *
+ * @since 1.4
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class Index {
+    /**
+     * Initial capacity of arrays.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Command line arguments.
+     */
+    private Tokens tokens;
+
+    /**
+     * Number of indexed arguments.
+     */
+    private int count;
+
+    /**
+     * Position of {@code --} argument or number of arguments if there is
+     * none.
+     */
+    private int limit;
+
+    /**
+     * Number of operands before {@code --} argument.
+     */
+    private int loose;
+
+    /**
+     * Positions of operands before {@code --} argument.
+     */
+    private int[] operands;
+
+    /**
+     * Positions of indexed arguments.
+     */
+    private int[] positions;
+
+    /**
+     * Number of leading dashes of indexed arguments.
+     */
+    private int[] dashes;
+
+    /**
+     * Positions right after the last line terminator in indexed arguments
+     * or zero if there is none.
+     */
+    private int[] breaks;
+
+    /**
+     * Entries of first indexed arguments equal to indexed arguments.
+     */
+    private int[] firsts;
+
+    /**
+     * Hash table of indexed arguments, used when finding first equal ones.
+     */
+    private int[] table;
+
+    /**
+     * Class constructor.
+     *
+     * @param tokens Command line arguments.
+     */
+    Index(final Tokens tokens) {
+        this.positions = new int[Index.CAPACITY];
+        this.dashes = new int[Index.CAPACITY];
+        this.breaks = new int[Index.CAPACITY];
+        this.firsts = new int[Index.CAPACITY];
+        this.table = new int[Index.CAPACITY << 1];
+        this.operands = new int[Index.CAPACITY];
+        this.reset(tokens);
+    }
+
+    /**
+     * Indexes other arguments. Arrays are reused and grown only when
+     * there are more arguments starting with a dash than ever before.
+     *
+     * @param args Command line arguments.
+     */
+    void reset(final Tokens args) {
+        this.tokens = args;
+        this.limit = args.size();
+        this.loose = 0;
+        int entries = 0;
+        for (int idx = 0; idx < this.limit; ++idx) {
+            final int lead = Index.lead(args, idx);
+            if (lead == 0) {
+                if (this.loose == this.operands.length) {
+                    this.operands = Arrays.copyOf(
+                        this.operands, this.loose << 1
+                    );
+                }
+                this.operands[this.loose] = idx;
+                ++this.loose;
+            } else if (lead == 2 && args.length(idx) == 2) {
+                this.limit = idx;
+            } else {
+                if (entries == this.positions.length) {
+                    this.grow();
+                }
+                this.positions[entries] = idx;
+                this.dashes[entries] = lead;
+                this.breaks[entries] = args.breaks(idx);
+                ++entries;
+            }
+        }
+        this.count = entries;
+        this.link();
+    }
+
+    /**
+     * Number of indexed arguments, that is the most options which may be
+     * found.
+     *
+     * @return Count of indexed arguments.
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Number of operands.
+     *
+     * @return Count of operands before and after {@code --} argument.
+     */
+    int operands() {
+        return this.loose + Math.max(0, this.tokens.size() - this.limit - 1);
+    }
+
+    /**
+     * Position of operand.
+     *
+     * @param idx Position of operand among operands.
+     * @return Position of argument.
+     */
+    int operand(final int idx) {
+        final int pos;
+        if (idx < this.loose) {
+            pos = this.operands[idx];
+        } else {
+            pos = this.limit + 1 + idx - this.loose;
+        }
+        return pos;
+    }
+
+    /**
+     * Finds options by name. Option is an argument with one or more dashes
+     * followed by the name. Arguments following the option, up to the next
+     * one with the same name or {@code --}, are its parameters.
+     *
+     * @param name Option name, that is a string right after the option dash.
+     * @return List of Options found for given name.
+     */
+    public List<Option> options(final String name) {
+        final int[] matched = new int[this.count];
+        return this.options(
+            matched, this.match(name, matched), Index.lead(name),
+            name.length()
+        );
+    }
+
+    /**
+     * Finds options by many names at once. Arguments are walked once and
+     * matched against all names together.
+     *
+     * @param names Option names.
+     * @return Lists of Options found by name, in order of names.
+     */
+    public Map<String, Iterable<Option>> options(final Names names) {
+        final Names.Found found = this.match(names);
+        final Map<String, Iterable<Option>> options = new LinkedHashMap<>();
+        for (int idx = 0; idx < names.size(); ++idx) {
+            options.put(
+                names.name(idx),
+                this.options(
+                    found.entries(idx), found.count(idx), names.lead(idx),
+                    names.name(idx).length()
+                )
+            );
+        }
+        return options;
+    }
+
+    /**
+     * Finds indexed arguments matching many option names in one walk.
+     *
+     * @param names Option names.
+     * @return Entries of matched arguments by name.
+     */
+    Names.Found match(final Names names) {
+        final Names.Found found = new Names.Found(names);
+        for (int entry = 0; entry < this.count; ++entry) {
+            names.match(
+                this.tokens, this.positions[entry], this.dashes[entry],
+                this.breaks[entry], entry, found
+            );
+        }
+        return found;
+    }
+
+    /**
+     * Finds indexed arguments matching option name.
+     *
+     * @param name Option name, that is a string right after the option dash.
+     * @param matched Array for entries of matched arguments, at least as
+     *  long as the index size.
+     * @return Number of matched arguments.
+     */
+    int match(final String name, final int[] matched) {
+        final int lead = Index.lead(name);
+        int found = 0;
+        for (int entry = 0; entry < this.count; ++entry) {
+            final int start = this.dashes[entry] - lead;
+            if (start > 0 && this.breaks[entry] <= start + name.length()
+                && this.tokens.regionMatches(
+                    this.positions[entry], this.dashes[entry], name, lead
+                )) {
+                matched[found] = entry;
+                ++found;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Position of indexed argument.
+     *
+     * @param entry Entry of argument in index.
+     * @return Position of argument.
+     */
+    int position(final int entry) {
+        return this.positions[entry];
+    }
+
+    /**
+     * Position in indexed argument where main option part starts.
+     *
+     * @param entry Entry of argument in index.
+     * @param lead Number of leading dashes in option name.
+     * @param length Length of option name.
+     * @return Position of character within the argument.
+     */
+    int prime(final int entry, final int lead, final int length) {
+        return this.dashes[entry] - lead + length;
+    }
+
+    /**
+     * Position of first parameter of option. Parameters are taken after
+     * the first argument equal to the option.
+     *
+     * @param entry Entry of option argument in index.
+     * @return Position of argument.
+     */
+    int start(final int entry) {
+        return this.positions[this.firsts[entry]] + 1;
+    }
+
+    /**
+     * Position right after the last parameter of option, that is the next
+     * matched argument after the first argument equal to the option or
+     * {@code --} argument.
+     *
+     * @param matched Entries of matched arguments, in order of arguments.
+     * @param found Number of matched arguments.
+     * @param idx Position of option in matched arguments.
+     * @return Position of argument.
+     */
+    int end(final int[] matched, final int found, final int idx) {
+        final int next = Arrays.binarySearch(
+            matched, 0, idx + 1, this.firsts[matched[idx]]
+        ) + 1;
+        int end = this.limit;
+        if (next < found) {
+            end = this.positions[matched[next]];
+        }
+        return end;
+    }
+
+    /**
+     * Options of matched arguments.
+     *
+     * @param matched Entries of matched arguments, in order of arguments.
+     * @param found Number of matched arguments.
+     * @param lead Number of leading dashes in option name.
+     * @param length Length of option name.
+     * @return List of Options.
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private List<Option> options(final int[] matched, final int found,
+        final int lead, final int length) {
+        final List<Option> options = new ArrayList<>(found);
+        for (int idx = 0; idx < found; ++idx) {
+            final int entry = matched[idx];
+            options.add(
+                new Option(
+                    this.tokens.slice(
+                        this.positions[entry], this.prime(entry, lead, length)
+                    ),
+                    new Span(
+                        this.tokens, this.start(entry),
+                        this.end(matched, found, idx)
+                    )
+                )
+            );
+        }
+        return options;
+    }
+
+    /**
+     * Finds, for every indexed argument, the first indexed argument equal
+     * to it. Parameters of options are fetched after the first equal
+     * argument.
+     */
+    private void link() {
+        final int size = Integer.highestOneBit(this.count) << 2;
+        if (size > this.table.length) {
+            this.table = new int[size];
+        } else {
+            Arrays.fill(this.table, 0, size, 0);
+        }
+        final int mask = size - 1;
+        for (int entry = 0; entry < this.count; ++entry) {
+            final int pos = this.positions[entry];
+            int slot = this.tokens.hash(pos) & mask;
+            this.firsts[entry] = entry;
+            while (this.table[slot] != 0) {
+                final int other = this.table[slot] - 1;
+                if (this.tokens.same(this.positions[other], pos)) {
+                    this.firsts[entry] = other;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (this.table[slot] == 0) {
+                this.table[slot] = entry + 1;
+            }
+        }
+    }
+
+    /**
+     * Doubles capacity of arrays.
+     */
+    private void grow() {
+        final int size = this.positions.length << 1;
+        this.positions = Arrays.copyOf(this.positions, size);
+        this.dashes = Arrays.copyOf(this.dashes, size);
+        this.breaks = Arrays.copyOf(this.breaks, size);
+        this.firsts = new int[size];
+    }
+
+    /**
+     * Number of leading dashes in argument.
+     *
+     * @param tokens Command line arguments.
+     * @param index Position of argument.
+     * @return Count of dashes.
+     */
+    private static int lead(final Tokens tokens, final int index) {
+        final int len = tokens.length(index);
+        int lead = 0;
+        while (lead < len && tokens.charAt(index, lead) == '-') {
+            ++lead;
+        }
+        return lead;
+    }
+
+    /**
+     * Number of leading dashes in name.
+     *
+     * @param name Option name.
+     * @return Count of dashes.
+     */
+    static int lead(final String name) {
+        int lead = 0;
+        while (lead < name.length() && name.charAt(lead) == '-') {
+            ++lead;
+        }
+        return lead;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine finding options in an index of arguments built once. Arguments
+ * are compared by characters, without regular expressions. This is
+ * the default engine.
+ *
+ * @since 1.4
+ */
+public final class IndexEngine implements Engine {
+    /**
+     * Index of command line arguments.
+     */
+    private final Index index;
+
+    /**
+     * Operands of command line arguments.
+     */
+    private final List<String> operands;
+
+    /**
+     * Class constructor.
+     *
+     * @param arguments Command line arguments.
+     */
+    public IndexEngine(final String... arguments) {
+        this(new ArrayTokens(arguments));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param arena Command line arguments packed into arena.
+     */
+    public IndexEngine(final Arena arena) {
+        this(arena.tokens());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param tokens Command line arguments.
+     */
+    private IndexEngine(final Tokens tokens) {
+        this.index = new Index(tokens);
+        this.operands = new Operands(tokens, this.index);
+    }
+
+    @Override
+    public Iterable<Option> options(final String name) {
+        return this.index.options(name);
+    }
+
+    @Override
+    public List<String> operands() {
+        return this.operands;
+    }
+
+    @Override
+    public Map<String, Iterable<Option>> options(final Names names) {
+        return this.index.options(names);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+/**
+ * Line terminators in arguments. Regular expression dot, used by the
+ * reference engine, does not match them, so options are not found when
+ * a line terminator follows their name.
+ *
+ * @since 1.4
+ */
+final class Lines {
+    /**
+     * Class constructor.
+     */
+    private Lines() {
+        // utility class
+    }
+
+    /**
+     * Position right after the last line terminator in text.
+     *
+     * @param text Text.
+     * @return Position or zero if there is no line terminator.
+     */
+    static int breaks(final String text) {
+        int pos = text.length();
+        while (pos > 0 && !Lines.terminator(text.charAt(pos - 1))) {
+            --pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Position right after the last line terminator in range of characters.
+     *
+     * @param chars Characters.
+     * @param from Start of range.
+     * @param end End of range.
+     * @return Position relative to range start or zero if there is no line
+     *  terminator.
+     */
+    static int breaks(final char[] chars, final int from, final int end) {
+        int pos = end;
+        while (pos > from && !Lines.terminator(chars[pos - 1])) {
+            --pos;
+        }
+        return pos - from;
+    }
+
+    /**
+     * Checks if character is a line terminator, as understood by regular
+     * expression dot.
+     *
+     * @param chr Character.
+     * @return True if it is a line terminator.
+     */
+    private static boolean terminator(final char chr) {
+        return chr == '\n' || chr == '\r' || chr == '\u0085'
+            || chr == '\u2028' || chr == '\u2029';
+    }
+}
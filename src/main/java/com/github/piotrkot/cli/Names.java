@@ -0,0 +1,283 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Option names searched for at once. Names are kept in a trie by their
+ * characters following the leading dashes, so that an argument is matched
+ * against all names in one walk over its characters.
+ *
+ * <p>Names are compiled once and never change, so the same names may be
+ * searched for in many command line arguments, also by many threads.
+ * Duplicate names are searched for once.
+ *
+ * @since 1.4
+ */
+public final class Names implements Iterable<String> {
+    /**
+     * Initial capacity of arrays.
+     */
+    private static final int CAPACITY = 4;
+
+    /**
+     * Distinct option names, in order.
+     */
+    private final List<String> names;
+
+    /**
+     * Number of leading dashes by name.
+     */
+    private final int[] leads;
+
+    /**
+     * Root of the trie.
+     */
+    private final Node root;
+
+    /**
+     * Class constructor.
+     *
+     * @param names Option names.
+     */
+    public Names(final String... names) {
+        this(Arrays.asList(names));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param names Option names.
+     */
+    public Names(final Iterable<String> names) {
+        final List<String> distinct = new ArrayList<>(Names.CAPACITY);
+        final Map<String, Integer> ids = new HashMap<>();
+        final Node trie = new Node();
+        for (final String name : names) {
+            if (!ids.containsKey(name)) {
+                ids.put(name, distinct.size());
+                distinct.add(name);
+            }
+        }
+        this.leads = new int[distinct.size()];
+        for (int idx = 0; idx < this.leads.length; ++idx) {
+            final String name = distinct.get(idx);
+            this.leads[idx] = Index.lead(name);
+            trie.add(name, this.leads[idx]).end(idx);
+        }
+        this.names = Collections.unmodifiableList(distinct);
+        this.root = trie;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return this.names.iterator();
+    }
+
+    /**
+     * Number of distinct names.
+     *
+     * @return Count of names.
+     */
+    int size() {
+        return this.names.size();
+    }
+
+    /**
+     * Option name.
+     *
+     * @param idx Position of name.
+     * @return Name.
+     */
+    String name(final int idx) {
+        return this.names.get(idx);
+    }
+
+    /**
+     * Number of leading dashes in name.
+     *
+     * @param idx Position of name.
+     * @return Count of dashes.
+     */
+    int lead(final int idx) {
+        return this.leads[idx];
+    }
+
+    /**
+     * Matches indexed argument against all names. Argument matches name
+     * when, after at least one dash, it starts with the name and there is
+     * no line terminator after the name.
+     *
+     * @param tokens Command line arguments.
+     * @param index Position of argument.
+     * @param dashes Number of leading dashes of argument.
+     * @param breaks Position right after the last line terminator.
+     * @param entry Entry of argument in index.
+     * @param found Matches collected for names.
+     */
+    void match(final Tokens tokens, final int index, final int dashes,
+        final int breaks, final int entry, final Found found) {
+        final int len = tokens.length(index);
+        Node node = this.root;
+        int pos = dashes;
+        while (node != null) {
+            for (final int idx : node.ends) {
+                if (this.leads[idx] < dashes && breaks <= pos) {
+                    found.add(idx, entry);
+                }
+            }
+            if (pos == len) {
+                break;
+            }
+            node = node.children.get(tokens.charAt(index, pos));
+            ++pos;
+        }
+    }
+
+    /**
+     * Arguments matched by names within one search.
+     */
+    static final class Found {
+        /**
+         * Entries of matched arguments by name.
+         */
+        private final int[][] entries;
+
+        /**
+         * Number of matched arguments by name.
+         */
+        private final int[] counts;
+
+        /**
+         * Class constructor.
+         *
+         * @param names Names searched for.
+         */
+        Found(final Names names) {
+            this.entries = new int[names.size()][];
+            this.counts = new int[names.size()];
+        }
+
+        /**
+         * Entries of arguments matched by name, in order of arguments.
+         *
+         * @param idx Position of name.
+         * @return Array with entries at its beginning.
+         */
+        int[] entries(final int idx) {
+            final int[] matched;
+            if (this.entries[idx] == null) {
+                matched = new int[0];
+            } else {
+                matched = this.entries[idx];
+            }
+            return matched;
+        }
+
+        /**
+         * Number of arguments matched by name.
+         *
+         * @param idx Position of name.
+         * @return Count of entries.
+         */
+        int count(final int idx) {
+            return this.counts[idx];
+        }
+
+        /**
+         * Adds matched argument.
+         *
+         * @param idx Position of name.
+         * @param entry Entry of argument in index.
+         */
+        private void add(final int idx, final int entry) {
+            if (this.entries[idx] == null) {
+                this.entries[idx] = new int[Names.CAPACITY];
+            } else if (this.counts[idx] == this.entries[idx].length) {
+                this.entries[idx] = Arrays.copyOf(
+                    this.entries[idx], this.counts[idx] << 1
+                );
+            }
+            this.entries[idx][this.counts[idx]] = entry;
+            ++this.counts[idx];
+        }
+    }
+
+    /**
+     * Node of trie.
+     */
+    private static final class Node {
+        /**
+         * Child nodes by next character.
+         */
+        private final Map<Character, Node> children;
+
+        /**
+         * Positions of names ending at this node.
+         */
+        private int[] ends;
+
+        /**
+         * Class constructor.
+         */
+        Node() {
+            this.children = new HashMap<>(0);
+            this.ends = new int[0];
+        }
+
+        /**
+         * Adds name characters below this node.
+         *
+         * @param name Option name.
+         * @param from Position of first character to add.
+         * @return Node where name ends.
+         */
+        Node add(final String name, final int from) {
+            Node node = this;
+            for (int pos = from; pos < name.length(); ++pos) {
+                node = node.children.computeIfAbsent(
+                    name.charAt(pos), chr -> new Node()
+                );
+            }
+            return node;
+        }
+
+        /**
+         * Marks name as ending at this node.
+         *
+         * @param idx Position of name.
+         */
+        void end(final int idx) {
+            this.ends = Arrays.copyOf(this.ends, this.ends.length + 1);
+            this.ends[this.ends.length - 1] = idx;
+        }
+    }
+}
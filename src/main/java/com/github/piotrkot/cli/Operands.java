@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Operands of command line arguments viewed as a list of strings. Strings
+ * are taken from arguments only when asked for.
+ *
+ * @since 1.4
+ */
+final class Operands extends AbstractList<String> implements RandomAccess {
+    /**
+     * Command line arguments.
+     */
+    private final Tokens tokens;
+
+    /**
+     * Index of command line arguments.
+     */
+    private final Index index;
+
+    /**
+     * Class constructor.
+     *
+     * @param tokens Command line arguments.
+     * @param index Index of command line arguments.
+     */
+    Operands(final Tokens tokens, final Index index) {
+        super();
+        this.tokens = tokens;
+        this.index = index;
+    }
+
+    @Override
+    public String get(final int idx) {
+        if (idx < 0 || idx >= this.size()) {
+            throw new IndexOutOfBoundsException(Integer.toString(idx));
+        }
+        return this.tokens.string(this.index.operand(idx));
+    }
+
+    @Override
+    public int size() {
+        return this.index.operands();
+    }
+}
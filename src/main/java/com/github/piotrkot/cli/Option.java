@@ -41,7 +41,7 @@ public final class Option {
     /**
      * Main option part.
      */
-    private final String prime;
+    private final CharSequence prime;
 
     /**
      * Command line parameters.
@@ -55,6 +55,17 @@ public final class Option {
      * @param parameters Command line parameters.
      */
     public Option(final String main, final Iterable<String> parameters) {
+        this((CharSequence) main, parameters);
+    }
+
+    /**
+     * Class constructor. Main option part is turned into a string only when
+     * the option is asked for its key or value.
+     *
+     * @param main Main option part.
+     * @param parameters Command line parameters.
+     */
+    public Option(final CharSequence main, final Iterable<String> parameters) {
         this.prime = main;
         this.params = parameters;
     }
@@ -89,13 +100,14 @@ public final class Option {
      * @return Option key if exists or empty string.
      */
     public String key() {
+        final String main = this.prime.toString();
         String key = "";
-        if (this.prime.contains(Option.EQ)) {
-            key = this.prime.split(Option.EQ)[0];
+        if (main.contains(Option.EQ)) {
+            key = main.split(Option.EQ)[0];
         } else {
             for (final String par : this.params) {
                 if (par.contains(Option.EQ)) {
-                    key = this.prime + par.split(Option.EQ)[0];
+                    key = main + par.split(Option.EQ)[0];
                     break;
                 }
             }
@@ -115,13 +127,14 @@ public final class Option {
      * @return Option value if exists or empty string.
      */
     public String value() {
+        final String main = this.prime.toString();
         String val = "";
-        if (this.prime.contains(Option.EQ)) {
-            if (this.prime.split(Option.EQ).length == 2) {
-                val = this.prime.split(Option.EQ)[1];
+        if (main.contains(Option.EQ)) {
+            if (main.split(Option.EQ).length == 2) {
+                val = main.split(Option.EQ)[1];
             }
         } else {
-            val = this.prime;
+            val = main;
             for (final String par : this.params) {
                 if (par.contains(Option.EQ)) {
                     //@checkstyle NestedIfDepthCheck (1 line)
@@ -134,4 +147,13 @@ public final class Option {
         }
         return val;
     }
+
+    /**
+     * Main option part, as typed after the option name.
+     *
+     * @return Main part.
+     */
+    CharSequence main() {
+        return this.prime;
+    }
 }
@@ -0,0 +1,430 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Command line arguments which may be reset to other arguments. Index of
+ * arguments and options found are reused between resets, so that parsing
+ * many argument vectors of similar size allocates no objects, apart from
+ * strings taken from options.
+ *
+ * <p>Options found are valid until the next search or reset. This class is
+ * not thread-safe; keep one per thread or in a pool.
+ *
+ * <p>Arguments are always searched in an index, as {@link IndexEngine} does,
+ * since only the index can be reset without allocation. Other engines,
+ * like {@link RegexEngine}, may be used with {@link CommandLineArgs}.
+ *
+ * @since 1.4
+ */
+public final class ReusableArgs {
+    /**
+     * Command line arguments.
+     */
+    private final ArrayTokens tokens;
+
+    /**
+     * Index of command line arguments.
+     */
+    private final Index index;
+
+    /**
+     * Helping exception.
+     */
+    private final HelpException help;
+
+    /**
+     * Suggestions of known option names.
+     */
+    private final Suggestions suggestions;
+
+    /**
+     * Operands of command line arguments.
+     */
+    private final List<String> operands;
+
+    /**
+     * Options found.
+     */
+    private final List<Option> options;
+
+    /**
+     * Read-only view of options found.
+     */
+    private final List<Option> found;
+
+    /**
+     * Main parts of options, reused.
+     */
+    private Prime[] primes;
+
+    /**
+     * Parameters of options, reused.
+     */
+    private Params[] params;
+
+    /**
+     * Options, reused.
+     */
+    private Option[] holders;
+
+    /**
+     * Entries of matched arguments.
+     */
+    private int[] matched;
+
+    /**
+     * Class constructor.
+     *
+     * @param arguments Command line arguments.
+     */
+    public ReusableArgs(final String... arguments) {
+        this(new HelpException("Wrong usage of arguments"), arguments);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param arguments Command line arguments.
+     */
+    public ReusableArgs(final HelpException help, final String... arguments) {
+        this(help, new Suggestions(), arguments);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param help Helping message exception.
+     * @param suggestions Suggestions of known option names attached to help
+     *  when option is not found.
+     * @param arguments Command line arguments.
+     */
+    public ReusableArgs(final HelpException help,
+        final Suggestions suggestions, final String... arguments) {
+        this.tokens = new ArrayTokens(arguments);
+        this.index = new Index(this.tokens);
+        this.help = help;
+        this.suggestions = suggestions;
+        this.operands = Collections.unmodifiableList(
+            new Operands(this.tokens, this.index)
+        );
+        this.options = new ArrayList<>(0);
+        this.found = Collections.unmodifiableList(this.options);
+        this.primes = new Prime[0];
+        this.params = new Params[0];
+        this.holders = new Option[0];
+        this.matched = new int[0];
+    }
+
+    /**
+     * Resets to other arguments.
+     *
+     * @param arguments Command line arguments.
+     * @return This object.
+     */
+    public ReusableArgs reset(final String... arguments) {
+        this.tokens.reset(arguments);
+        this.index.reset(this.tokens);
+        this.options.clear();
+        return this;
+    }
+
+    /**
+     * Finds option by name. Options are valid until the next search
+     * or reset.
+     *
+     * @param name Option name, that is a string right after the option dash.
+     * @return List of Options found for given name.
+     */
+    public List<Option> findOption(final String name) {
+        if (this.matched.length < this.index.size()) {
+            this.matched = new int[this.index.size()];
+        }
+        final int count = this.index.match(name, this.matched);
+        if (this.holders.length < count) {
+            this.grow(count);
+        }
+        this.options.clear();
+        this.point(this.matched, count, Index.lead(name), name.length());
+        return this.found;
+    }
+
+    /**
+     * Finds options by many names at once, in a single pass over arguments.
+     * Options are valid until the next search or reset.
+     *
+     * @param names Option names, that are strings right after the option dash.
+     * @return Lists of Options found by name, in order of names.
+     */
+    public Map<String, List<Option>> findOptions(final String... names) {
+        return this.findOptions(new Names(names));
+    }
+
+    /**
+     * Finds options by many names compiled once, in a single pass over
+     * arguments. Options are valid until the next search or reset.
+     *
+     * @param names Option names, that are strings right after the option dash.
+     * @return Lists of Options found by name, in order of names.
+     */
+    public Map<String, List<Option>> findOptions(final Names names) {
+        final Names.Found matches = this.index.match(names);
+        int total = 0;
+        for (int idx = 0; idx < names.size(); ++idx) {
+            total += matches.count(idx);
+        }
+        if (this.holders.length < total) {
+            this.grow(total);
+        }
+        this.options.clear();
+        for (int idx = 0; idx < names.size(); ++idx) {
+            this.point(
+                matches.entries(idx), matches.count(idx), names.lead(idx),
+                names.name(idx).length()
+            );
+        }
+        final Map<String, List<Option>> all = new LinkedHashMap<>();
+        int from = 0;
+        for (int idx = 0; idx < names.size(); ++idx) {
+            final int to = from + matches.count(idx);
+            all.put(names.name(idx), this.found.subList(from, to));
+            from = to;
+        }
+        return all;
+    }
+
+    /**
+     * Finds first option by name. Option is valid until the next search
+     * or reset.
+     *
+     * @param name Option name, that is a string right after the option dash.
+     * @return First Option found for given name.
+     * @throws IOException When there is no option found. Thrown help has
+     *  known option names similar to unknown options typed attached, if
+     *  there are any.
+     */
+    public Option findFirstOption(final String name) throws IOException {
+        final List<Option> opts = this.findOption(name);
+        if (opts.isEmpty()) {
+            throw this.help.suggest(
+                this.suggestions.similar(this.getOptions())
+            );
+        }
+        return opts.get(0);
+    }
+
+    /**
+     * Gets operands, that are arguments not starting with a dash and all
+     * arguments after {@code --}. Operands are valid until the next reset.
+     *
+     * @return List of operands in order of arguments.
+     */
+    public List<String> getOperands() {
+        return this.operands;
+    }
+
+    /**
+     * Gets all options provided. Options are valid until the next search
+     * or reset.
+     *
+     * @return List of Options found.
+     */
+    public List<Option> getOptions() {
+        return this.findOption("");
+    }
+
+    /**
+     * Points next reused options to matched arguments and adds them
+     * to options found.
+     *
+     * @param entries Entries of matched arguments.
+     * @param count Number of matched arguments.
+     * @param lead Number of leading dashes in option name.
+     * @param length Length of option name.
+     */
+    private void point(final int[] entries, final int count, final int lead,
+        final int length) {
+        for (int idx = 0; idx < count; ++idx) {
+            final int entry = entries[idx];
+            final int holder = this.options.size();
+            this.primes[holder].point(
+                this.index.position(entry),
+                this.index.prime(entry, lead, length)
+            );
+            this.params[holder].point(
+                this.index.start(entry),
+                this.index.end(entries, count, idx)
+            );
+            this.options.add(this.holders[holder]);
+        }
+    }
+
+    /**
+     * Adds options to be reused.
+     *
+     * @param count Number of options needed.
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private void grow(final int count) {
+        final int size = Math.max(count, this.holders.length << 1);
+        final int old = this.holders.length;
+        this.primes = Arrays.copyOf(this.primes, size);
+        this.params = Arrays.copyOf(this.params, size);
+        this.holders = Arrays.copyOf(this.holders, size);
+        for (int idx = old; idx < size; ++idx) {
+            this.primes[idx] = new Prime(this.tokens);
+            this.params[idx] = new Params(this.tokens);
+            this.holders[idx] = new Option(this.primes[idx], this.params[idx]);
+        }
+    }
+
+    /**
+     * Main option part, which can point to other argument.
+     */
+    private static final class Prime implements CharSequence {
+        /**
+         * Command line arguments.
+         */
+        private final Tokens tokens;
+
+        /**
+         * Position of argument.
+         */
+        private int index;
+
+        /**
+         * Position of first character within the argument.
+         */
+        private int from;
+
+        /**
+         * Class constructor.
+         *
+         * @param tokens Command line arguments.
+         */
+        Prime(final Tokens tokens) {
+            this.tokens = tokens;
+        }
+
+        /**
+         * Points to other argument.
+         *
+         * @param idx Position of argument.
+         * @param start Position of first character within the argument.
+         */
+        void point(final int idx, final int start) {
+            this.index = idx;
+            this.from = start;
+        }
+
+        @Override
+        public int length() {
+            return this.tokens.length(this.index) - this.from;
+        }
+
+        @Override
+        public char charAt(final int pos) {
+            if (pos < 0 || pos >= this.length()) {
+                throw new IndexOutOfBoundsException(Integer.toString(pos));
+            }
+            return this.tokens.charAt(this.index, this.from + pos);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return this.toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return this.tokens.string(this.index).substring(this.from);
+        }
+    }
+
+    /**
+     * Option parameters, which can point to other range of arguments.
+     */
+    private static final class Params extends AbstractList<String>
+        implements RandomAccess {
+        /**
+         * Command line arguments.
+         */
+        private final Tokens tokens;
+
+        /**
+         * Position of first argument, inclusive.
+         */
+        private int start;
+
+        /**
+         * Position of last argument, exclusive.
+         */
+        private int end;
+
+        /**
+         * Class constructor.
+         *
+         * @param tokens Command line arguments.
+         */
+        Params(final Tokens tokens) {
+            super();
+            this.tokens = tokens;
+        }
+
+        /**
+         * Points to other range of arguments.
+         *
+         * @param first Position of first argument, inclusive.
+         * @param last Position of last argument, exclusive.
+         */
+        void point(final int first, final int last) {
+            this.start = first;
+            this.end = last;
+        }
+
+        @Override
+        public String get(final int idx) {
+            if (idx < 0 || idx >= this.size()) {
+                throw new IndexOutOfBoundsException(Integer.toString(idx));
+            }
+            return this.tokens.string(this.start + idx);
+        }
+
+        @Override
+        public int size() {
+            return this.end - this.start;
+        }
+    }
+}
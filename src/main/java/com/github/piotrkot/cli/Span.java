@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Range of command line arguments viewed as a list of strings. Strings
+ * are taken from arguments only when asked for.
+ *
+ * @since 1.4
+ */
+final class Span extends AbstractList<String> implements RandomAccess {
+    /**
+     * Command line arguments.
+     */
+    private final Tokens tokens;
+
+    /**
+     * Position of first argument, inclusive.
+     */
+    private final int start;
+
+    /**
+     * Position of last argument, exclusive.
+     */
+    private final int end;
+
+    /**
+     * Class constructor.
+     *
+     * @param tokens Command line arguments.
+     * @param start Position of first argument, inclusive.
+     * @param end Position of last argument, exclusive.
+     */
+    Span(final Tokens tokens, final int start, final int end) {
+        super();
+        this.tokens = tokens;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public String get(final int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+        return this.tokens.string(this.start + index);
+    }
+
+    @Override
+    public int size() {
+        return this.end - this.start;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suggestions of known option names similar to the given one, or to options
+ * typed in command line which are not known.
+ * Names are indexed once in a BK-tree by their edit distance, so that
+ * finding the nearest names does not compare against all of them.
+ *
+ * @since 1.4
+ */
+public final class Suggestions {
+    /**
+     * Default maximal edit distance of suggested names.
+     */
+    private static final int DISTANCE = 2;
+
+    /**
+     * Maximal edit distance of suggested names.
+     */
+    private final int distance;
+
+    /**
+     * Root of the tree or null when there are no names.
+     */
+    private final Node root;
+
+    /**
+     * Known names without leading dashes.
+     */
+    private final List<String> known;
+
+    /**
+     * Class constructor.
+     *
+     * @param names Known option names.
+     */
+    public Suggestions(final String... names) {
+        this(Suggestions.DISTANCE, names);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param distance Maximal edit distance of suggested names.
+     * @param names Known option names.
+     */
+    public Suggestions(final int distance, final String... names) {
+        this(distance, Arrays.asList(names));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param distance Maximal edit distance of suggested names.
+     * @param names Known option names.
+     */
+    @SuppressWarnings("PMD.NullAssignment")
+    public Suggestions(final int distance, final Iterable<String> names) {
+        this.distance = distance;
+        this.known = new ArrayList<>(0);
+        Node top = null;
+        for (final String name : names) {
+            this.known.add(name.substring(Index.lead(name)));
+            if (top == null) {
+                top = new Node(name);
+            } else {
+                top.add(name);
+            }
+        }
+        this.root = top;
+    }
+
+    /**
+     * Finds known names similar to the given one. Names are ordered by
+     * their edit distance and then alphabetically.
+     *
+     * @param name Option name, which is not known.
+     * @return Similar known names or empty list when there are none.
+     */
+    public List<String> similar(final String name) {
+        final List<Map.Entry<String, Integer>> found = new ArrayList<>(0);
+        if (this.root != null) {
+            final Deque<Node> nodes = new LinkedList<>();
+            nodes.push(this.root);
+            while (!nodes.isEmpty()) {
+                final Node node = nodes.pop();
+                final int dist = Suggestions.edits(node.word, name);
+                if (dist <= this.distance) {
+                    found.add(
+                        new AbstractMap.SimpleImmutableEntry<>(node.word, dist)
+                    );
+                }
+                for (final Map.Entry<Integer, Node> child
+                    : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - dist) <= this.distance) {
+                        nodes.push(child.getValue());
+                    }
+                }
+            }
+        }
+        found.sort(
+            Comparator.comparing(Map.Entry<String, Integer>::getValue)
+                .thenComparing(Map.Entry::getKey)
+        );
+        final List<String> names = new ArrayList<>(found.size());
+        for (final Map.Entry<String, Integer> entry : found) {
+            names.add(entry.getKey());
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Finds known names similar to options typed in command line. Only
+     * options matching none of the known names are taken, without their
+     * leading dashes. Example: <br>
+     * When known names are {@code verbose} and {@code help} and command line
+     * is {@code --verbos --help}, then {@code verbose} is suggested.
+     *
+     * @param options All options typed, as found by empty name.
+     * @return Similar known names in order of options or empty list when
+     *  there are none.
+     */
+    public List<String> similar(final Iterable<Option> options) {
+        final Set<String> names = new LinkedHashSet<>(0);
+        for (final Option option : options) {
+            final String typed = option.main().toString();
+            if (!this.known(typed)) {
+                names.addAll(this.similar(typed));
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(names));
+    }
+
+    /**
+     * Checks whether typed option matches any known name, that is it
+     * starts with the name.
+     *
+     * @param typed Typed option without leading dashes.
+     * @return True if option matches a known name.
+     */
+    private boolean known(final String typed) {
+        boolean found = false;
+        for (final String name : this.known) {
+            if (typed.startsWith(name)) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Levenshtein distance between two words.
+     *
+     * @param first First word.
+     * @param second Second word.
+     * @return Number of single character edits changing one word into other.
+     */
+    private static int edits(final String first, final String second) {
+        int[] prev = new int[second.length() + 1];
+        int[] curr = new int[second.length() + 1];
+        for (int col = 0; col <= second.length(); ++col) {
+            prev[col] = col;
+        }
+        for (int row = 1; row <= first.length(); ++row) {
+            curr[0] = row;
+            for (int col = 1; col <= second.length(); ++col) {
+                int cost = 1;
+                if (first.charAt(row - 1) == second.charAt(col - 1)) {
+                    cost = 0;
+                }
+                curr[col] = Math.min(
+                    Math.min(curr[col - 1] + 1, prev[col] + 1),
+                    prev[col - 1] + cost
+                );
+            }
+            final int[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        return prev[second.length()];
+    }
+
+    /**
+     * Node of BK-tree. Children are keyed by their distance to the node.
+     */
+    private static final class Node {
+        /**
+         * Known name.
+         */
+        private final String word;
+
+        /**
+         * Child nodes by distance.
+         */
+        private final Map<Integer, Node> children;
+
+        /**
+         * Class constructor.
+         *
+         * @param word Known name.
+         */
+        Node(final String word) {
+            this.word = word;
+            this.children = new HashMap<>(0);
+        }
+
+        /**
+         * Adds name below this node unless it is already present.
+         *
+         * @param name Known name.
+         */
+        void add(final String name) {
+            Node node = this;
+            int dist = Suggestions.edits(node.word, name);
+            while (dist > 0) {
+                final Node child = node.children.get(dist);
+                if (child == null) {
+                    node.children.put(dist, new Node(name));
+                    break;
+                }
+                node = child;
+                dist = Suggestions.edits(node.word, name);
+            }
+        }
+    }
+}
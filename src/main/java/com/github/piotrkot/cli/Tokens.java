@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+/**
+ * Command line arguments accessed by their positions and characters, so
+ * that they can be searched without creating strings.
+ *
+ * @since 1.4
+ */
+interface Tokens {
+    /**
+     * Number of arguments.
+     *
+     * @return Count of arguments.
+     */
+    int size();
+
+    /**
+     * Length of argument.
+     *
+     * @param index Position of argument.
+     * @return Number of characters in the argument.
+     */
+    int length(int index);
+
+    /**
+     * Character of argument.
+     *
+     * @param index Position of argument.
+     * @param pos Position of character within the argument.
+     * @return Character at given position.
+     */
+    char charAt(int index, int pos);
+
+    /**
+     * Position right after the last line terminator in argument.
+     *
+     * @param index Position of argument.
+     * @return Position or zero if there is no line terminator.
+     */
+    int breaks(int index);
+
+    /**
+     * Checks if argument, starting at given offset, begins with a part
+     * of the text.
+     *
+     * @param index Position of argument.
+     * @param offset Position of character within the argument.
+     * @param text Text to compare with.
+     * @param from Position in the text the compared part begins at.
+     * @return True if text part is found at argument offset.
+     */
+    boolean regionMatches(int index, int offset, String text, int from);
+
+    /**
+     * Checks if two arguments are equal.
+     *
+     * @param index Position of argument.
+     * @param other Position of other argument.
+     * @return True when both arguments have the same characters.
+     */
+    boolean same(int index, int other);
+
+    /**
+     * Hash code of argument, consistent with {@link #same(int, int)}.
+     *
+     * @param index Position of argument.
+     * @return Hash code of characters in the argument.
+     */
+    int hash(int index);
+
+    /**
+     * Characters of argument starting at given position, without copying.
+     *
+     * @param index Position of argument.
+     * @param from Position of first character within the argument.
+     * @return Argument characters view.
+     */
+    CharSequence slice(int index, int from);
+
+    /**
+     * Argument as a string.
+     *
+     * @param index Position of argument.
+     * @return Argument string.
+     */
+    String string(int index);
+}
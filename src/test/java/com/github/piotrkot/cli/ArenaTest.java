@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Arena} class.
+ *
+ * @since 1.4
+ */
+public final class ArenaTest {
+    /**
+     * Can pack arguments.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void packArguments() throws Exception {
+        final Arena arena = new Arena("-f", "", "file.txt");
+        MatcherAssert.assertThat(arena.size(), Matchers.is(3));
+        final Tokens tokens = arena.tokens();
+        MatcherAssert.assertThat(tokens.size(), Matchers.is(3));
+        MatcherAssert.assertThat(tokens.string(0), Matchers.is("-f"));
+        MatcherAssert.assertThat(tokens.string(1), Matchers.is(""));
+        MatcherAssert.assertThat(tokens.string(2), Matchers.is("file.txt"));
+    }
+
+    /**
+     * Can pack many arguments.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void packManyArguments() throws Exception {
+        final String[] args = new String[1000];
+        for (int num = 0; num < args.length; ++num) {
+            args[num] = String.format("file%d.txt", num);
+        }
+        final Arena arena = new Arena(Arrays.asList(args));
+        MatcherAssert.assertThat(arena.size(), Matchers.is(args.length));
+        final Tokens tokens = arena.tokens();
+        for (int num = 0; num < args.length; ++num) {
+            MatcherAssert.assertThat(
+                tokens.string(num), Matchers.is(args[num])
+            );
+        }
+    }
+
+    /**
+     * Can pack arguments read lazily from a stream.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void packStreamedArguments() throws Exception {
+        try (Stream<String> lines = Stream.of("-file", "a.txt", "b.txt")) {
+            MatcherAssert.assertThat(
+                new CommandLineArgs(
+                    new HelpException("Usage"), new Arena(lines::iterator)
+                ).findFirstOption("file").arguments(),
+                Matchers.contains("a.txt", "b.txt")
+            );
+        }
+    }
+
+    /**
+     * Can find options in arena.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findOptions() throws Exception {
+        final CommandLineArgs cli = new CommandLineArgs(
+            new HelpException("Usage"),
+            new Arena("-file", "in1.txt", "in2.txt", "-D", "p=1", "-Xmx2048m")
+        );
+        MatcherAssert.assertThat(
+            cli.findFirstOption("Xmx").value(), Matchers.is("2048m")
+        );
+        final Iterator<Option> all = cli.getOptions().iterator();
+        final Option file = all.next();
+        MatcherAssert.assertThat(file.value(), Matchers.is("file"));
+        MatcherAssert.assertThat(
+            file.arguments(), Matchers.contains("in1.txt", "in2.txt")
+        );
+        final Option prop = all.next();
+        MatcherAssert.assertThat(prop.key(), Matchers.is("Dp"));
+        MatcherAssert.assertThat(prop.value(), Matchers.is("1"));
+        MatcherAssert.assertThat(all.next().value(), Matchers.is("Xmx2048m"));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ArenaTokens} class.
+ *
+ * @since 1.4
+ */
+public final class ArenaTokensTest {
+    /**
+     * Can access characters of arguments.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void accessCharacters() throws Exception {
+        final Tokens tokens = new Arena("-f", "", "file.txt").tokens();
+        MatcherAssert.assertThat(tokens.length(1), Matchers.is(0));
+        MatcherAssert.assertThat(tokens.length(2), Matchers.is(8));
+        MatcherAssert.assertThat(tokens.charAt(2, 4), Matchers.is('.'));
+        MatcherAssert.assertThat(
+            tokens.slice(2, 5).toString(), Matchers.is("txt")
+        );
+        MatcherAssert.assertThat(
+            tokens.slice(2, 4).subSequence(1, 3).toString(),
+            Matchers.is("tx")
+        );
+        MatcherAssert.assertThat(
+            tokens.hash(2), Matchers.is("file.txt".hashCode())
+        );
+        MatcherAssert.assertThat(tokens.breaks(2), Matchers.is(0));
+        MatcherAssert.assertThat(
+            new Arena("-a\nb\rc").tokens().breaks(0), Matchers.is(5)
+        );
+    }
+
+    /**
+     * Can compare arguments.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void compareArguments() throws Exception {
+        final Tokens tokens = new Arena("-abc", "-abd", "-abc", "-ab")
+            .tokens();
+        MatcherAssert.assertThat(tokens.same(0, 2), Matchers.is(true));
+        MatcherAssert.assertThat(tokens.same(0, 1), Matchers.is(false));
+        MatcherAssert.assertThat(tokens.same(0, 3), Matchers.is(false));
+        MatcherAssert.assertThat(
+            tokens.regionMatches(1, 1, "xabd", 1), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            tokens.regionMatches(3, 1, "abc", 0), Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ArgsCache} class.
+ *
+ * @since 1.4
+ */
+public final class ArgsCacheTest {
+    /**
+     * Can share arguments parsed before.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void shareParsedArguments() throws Exception {
+        final ArgsCache cache = new ArgsCache(10);
+        final String[] args = {"--max-depth=1", "-f", "file.txt"};
+        final CommandLineArgs first = cache.args(args);
+        args[2] = "other.txt";
+        final CommandLineArgs second = cache.args(
+            "--max-depth=1", "-f", "file.txt"
+        );
+        MatcherAssert.assertThat(second, Matchers.sameInstance(first));
+        MatcherAssert.assertThat(
+            second.findFirstOption("f").arguments(),
+            Matchers.contains("file.txt")
+        );
+        MatcherAssert.assertThat(cache.hits(), Matchers.is(1L));
+        MatcherAssert.assertThat(cache.misses(), Matchers.is(1L));
+    }
+
+    /**
+     * Can parse arguments by given engine.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void parseByGivenEngine() throws Exception {
+        final List<String[]> parsed = new ArrayList<>(0);
+        final ArgsCache cache = new ArgsCache(
+            new HelpException("Usage"), new Suggestions(),
+            args -> {
+                parsed.add(args);
+                return new RegexEngine(args);
+            },
+            10
+        );
+        MatcherAssert.assertThat(
+            cache.args("-Xmx2048m").findFirstOption("Xmx").value(),
+            Matchers.is("2048m")
+        );
+        cache.args("-Xmx2048m");
+        MatcherAssert.assertThat(parsed, Matchers.hasSize(1));
+    }
+
+    /**
+     * Can evict least recently used arguments.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void evictLeastRecentlyUsed() throws Exception {
+        final ArgsCache cache = new ArgsCache(1);
+        final CommandLineArgs first = cache.args("-a");
+        cache.args("-b");
+        MatcherAssert.assertThat(cache.size(), Matchers.is(1));
+        MatcherAssert.assertThat(
+            cache.args("-a"), Matchers.not(Matchers.sameInstance(first))
+        );
+        MatcherAssert.assertThat(cache.misses(), Matchers.is(3L));
+    }
+
+    /**
+     * Can keep working set as large as capacity.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void keepWorkingSetOfCapacity() throws Exception {
+        final ArgsCache cache = new ArgsCache(3000);
+        for (int round = 0; round < 3; ++round) {
+            for (int num = 0; num < 3000; ++num) {
+                cache.args("-n", Integer.toString(num));
+            }
+        }
+        MatcherAssert.assertThat(cache.hits(), Matchers.is(6000L));
+        MatcherAssert.assertThat(cache.size(), Matchers.is(3000));
+        final ArgsCache pair = new ArgsCache(2);
+        for (int num = 0; num < 10; ++num) {
+            pair.args("-0");
+            pair.args("-2");
+        }
+        MatcherAssert.assertThat(pair.misses(), Matchers.is(2L));
+    }
+
+    /**
+     * Can evict arguments not used recently first.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void evictNotUsedRecently() throws Exception {
+        final ArgsCache cache = new ArgsCache(3);
+        final CommandLineArgs first = cache.args("-a");
+        cache.args("-b");
+        cache.args("-c");
+        cache.args("-a");
+        cache.args("-d");
+        MatcherAssert.assertThat(
+            cache.args("-a"), Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(cache.size(), Matchers.is(3));
+        MatcherAssert.assertThat(cache.misses(), Matchers.is(4L));
+    }
+
+    /**
+     * Can keep number of arguments within capacity.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void keepWithinCapacity() throws Exception {
+        final ArgsCache cache = new ArgsCache(100);
+        for (int num = 0; num < 1000; ++num) {
+            cache.args("-n", Integer.toString(num));
+        }
+        MatcherAssert.assertThat(
+            cache.size(), Matchers.lessThanOrEqualTo(100)
+        );
+    }
+
+    /**
+     * Can share arguments between threads.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void shareBetweenThreads() throws Exception {
+        final ArgsCache cache = new ArgsCache(500);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final Collection<Callable<String>> tasks = new ArrayList<>(0);
+        for (int num = 0; num < 400; ++num) {
+            final String val = Integer.toString(num % 20);
+            tasks.add(
+                () -> cache.args("--val", val).findFirstOption("val")
+                    .arguments().iterator().next()
+            );
+        }
+        int num = 0;
+        for (final Future<String> res : pool.invokeAll(tasks)) {
+            MatcherAssert.assertThat(
+                res.get(), Matchers.is(Integer.toString(num % 20))
+            );
+            ++num;
+        }
+        pool.shutdown();
+        MatcherAssert.assertThat(
+            cache.hits() + cache.misses(), Matchers.is(400L)
+        );
+        MatcherAssert.assertThat(cache.size(), Matchers.is(20));
+    }
+}
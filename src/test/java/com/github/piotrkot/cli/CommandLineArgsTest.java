@@ -24,6 +24,7 @@
 package com.github.piotrkot.cli;
 
 import java.util.Iterator;
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -210,4 +211,196 @@ public final class CommandLineArgsTest {
         );
         cli.findFirstOption("duplic");
     }
+
+    /**
+     * Can not suggest options when all options typed are known.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestNothingForKnownOptions() throws Exception {
+        final Suggestions suggestions = new Suggestions("verbose", "help");
+        for (final String[] args
+            : new String[][] {{}, {"--help", "x"}, {"--verbose=1"}}) {
+            try {
+                new CommandLineArgs(
+                    new HelpException("Usage"), suggestions, args
+                ).findFirstOption("version");
+                MatcherAssert.assertThat("Exception expected", false);
+            } catch (final HelpException ex) {
+                MatcherAssert.assertThat(ex.suggestions(), Matchers.empty());
+            }
+        }
+    }
+
+    /**
+     * Can suggest similar options when first option is not found.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestSimilarOptions() throws Exception {
+        final String message = "Allowed are 'verbose' and 'version'";
+        final CommandLineArgs cli = new CommandLineArgs(
+            new HelpException(message),
+            new Suggestions("verbose", "version", "help"),
+            "--verbse", "--help"
+        );
+        try {
+            cli.findFirstOption("verbose");
+            MatcherAssert.assertThat("Exception expected", false);
+        } catch (final HelpException ex) {
+            MatcherAssert.assertThat(
+                ex.suggestions(), Matchers.contains("verbose")
+            );
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.is(message)
+            );
+        }
+    }
+
+    /**
+     * Can find repeated options with parameters of the first one.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findRepeatedOptions() throws Exception {
+        final Iterator<Option> iter = new CommandLineArgs(
+            "-f", "one", "-f", "two"
+        ).findOption("f").iterator();
+        MatcherAssert.assertThat(
+            iter.next().arguments(), Matchers.contains("one")
+        );
+        MatcherAssert.assertThat(
+            iter.next().arguments(), Matchers.contains("one")
+        );
+    }
+
+    /**
+     * Can not find option with line break after its name.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findNoOptionWithLineBreak() throws Exception {
+        final CommandLineArgs cli = new CommandLineArgs("-a\nb", "--c\r");
+        MatcherAssert.assertThat(
+            cli.findOption("a").iterator().hasNext(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            cli.findOption("a\nb").iterator().hasNext(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            cli.findOption("-c\r").iterator().next().value(),
+            Matchers.is("")
+        );
+    }
+
+    /**
+     * Can find options with selected engine.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findWithEngine() throws Exception {
+        final CommandLineArgs cli = new CommandLineArgs(
+            new HelpException("Usage"),
+            new RegexEngine("-Xmx2048m", "-Xms256m")
+        );
+        final Iterator<Option> iter = cli.findOption("X").iterator();
+        MatcherAssert.assertThat(iter.next().value(), Matchers.is("mx2048m"));
+        MatcherAssert.assertThat(iter.next().value(), Matchers.is("ms256m"));
+        MatcherAssert.assertThat(
+            cli.findFirstOption("Xms").value(), Matchers.is("256m")
+        );
+    }
+
+    /**
+     * Can find options by many names at once.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findManyOptions() throws Exception {
+        final Map<String, Iterable<Option>> found = new CommandLineArgs(
+            "--verbose", "-Xmx2048m", "-Xms256m"
+        ).findOptions("Xmx", "X", "verbose", "help");
+        MatcherAssert.assertThat(
+            found.keySet(), Matchers.contains("Xmx", "X", "verbose", "help")
+        );
+        MatcherAssert.assertThat(
+            found.get("Xmx").iterator().next().value(), Matchers.is("2048m")
+        );
+        MatcherAssert.assertThat(found.get("X"), Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(
+            found.get("verbose").iterator().next().arguments(),
+            Matchers.contains("-Xmx2048m", "-Xms256m")
+        );
+        MatcherAssert.assertThat(
+            found.get("help").iterator().hasNext(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * Can find options by names compiled once for many arguments.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findOptionsByReusedNames() throws Exception {
+        final Names names = new Names("file", "v", "file");
+        MatcherAssert.assertThat(names, Matchers.contains("file", "v"));
+        MatcherAssert.assertThat(
+            new CommandLineArgs("-file", "a.txt").findOptions(names)
+                .get("file").iterator().next().arguments(),
+            Matchers.contains("a.txt")
+        );
+        final Map<String, Iterable<Option>> found = new CommandLineArgs(
+            new HelpException("Usage"), new RegexEngine("-v", "-file")
+        ).findOptions(names);
+        MatcherAssert.assertThat(
+            found.keySet(), Matchers.contains("file", "v")
+        );
+        MatcherAssert.assertThat(
+            found.get("v").iterator().next().arguments(),
+            Matchers.contains("-file")
+        );
+    }
+
+    /**
+     * Can get operands.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void getOperands() throws Exception {
+        final CommandLineArgs cli = new CommandLineArgs(
+            "-cf", "archive.tar", "foo", "--", "-bar", "--", "baz"
+        );
+        MatcherAssert.assertThat(
+            cli.getOperands(),
+            Matchers.contains("archive.tar", "foo", "-bar", "--", "baz")
+        );
+        MatcherAssert.assertThat(
+            cli.findFirstOption("cf").arguments(),
+            Matchers.contains("archive.tar", "foo")
+        );
+        MatcherAssert.assertThat(
+            cli.findOption("bar").iterator().hasNext(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(cli.getOptions(), Matchers.hasSize(1));
+    }
+
+    /**
+     * Can get operands when there are none.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void getOperandsWhenNone() throws Exception {
+        MatcherAssert.assertThat(
+            new CommandLineArgs("-x", "--").getOperands(), Matchers.empty()
+        );
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IndexEngine} class. Options found are compared with
+ * those found by {@link RegexEngine} over random arguments.
+ *
+ * @since 1.4
+ */
+public final class IndexEngineTest {
+    /**
+     * Parts arguments and names are made of.
+     */
+    private static final String[] PARTS = {
+        "-", "-", "--", "=", "D", "X", "mx", "param", "2", "a", "ab",
+        ".", "*", "\n", "\r", "\u2028", "\u0085", "\\Q", " ",
+    };
+
+    /**
+     * Can find the same options as regular expressions.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findSameAsRegex() throws Exception {
+        final Random random = new Random(0L);
+        for (int run = 0; run < 20_000; ++run) {
+            final String[] args = new String[random.nextInt(7)];
+            for (int idx = 0; idx < args.length; ++idx) {
+                args[idx] = IndexEngineTest.text(random, 4);
+            }
+            final Engine regex = new RegexEngine(args);
+            final Engine index = new IndexEngine(args);
+            final Engine arena = new IndexEngine(new Arena(args));
+            MatcherAssert.assertThat(
+                index.operands(), Matchers.equalTo(regex.operands())
+            );
+            MatcherAssert.assertThat(
+                arena.operands(), Matchers.equalTo(regex.operands())
+            );
+            for (int query = 0; query < 4; ++query) {
+                final String name = IndexEngineTest.text(random, 2);
+                final List<String> expected = IndexEngineTest.found(
+                    regex, name
+                );
+                MatcherAssert.assertThat(
+                    String.format("%s in %s", name, String.join(",", args)),
+                    IndexEngineTest.found(index, name),
+                    Matchers.equalTo(expected)
+                );
+                MatcherAssert.assertThat(
+                    IndexEngineTest.found(arena, name),
+                    Matchers.equalTo(expected)
+                );
+            }
+        }
+    }
+
+    /**
+     * Can find ambiguous options the same way as regular expressions.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findAmbiguousSameAsRegex() throws Exception {
+        final String[] args = {
+            "-Dparam2", "-Xmx2048m", "-Xms256m", "--D", "p=1", "-Dparam2",
+        };
+        for (final String name : new String[] {"", "-", "D", "Dparam", "X",
+            "Xmx", "Xms", "-D", "--D", }) {
+            MatcherAssert.assertThat(
+                IndexEngineTest.found(new IndexEngine(args), name),
+                Matchers.equalTo(
+                    IndexEngineTest.found(new RegexEngine(args), name)
+                )
+            );
+        }
+    }
+
+    /**
+     * Can find options by many names the same as by single names.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findManySameAsSingle() throws Exception {
+        final Random random = new Random(1L);
+        for (int run = 0; run < 5_000; ++run) {
+            final String[] args = new String[random.nextInt(7)];
+            for (int idx = 0; idx < args.length; ++idx) {
+                args[idx] = IndexEngineTest.text(random, 4);
+            }
+            final List<String> names = new ArrayList<>(0);
+            final int count = random.nextInt(6);
+            for (int idx = 0; idx < count; ++idx) {
+                names.add(IndexEngineTest.text(random, 2));
+            }
+            final Engine regex = new RegexEngine(args);
+            final Map<String, Iterable<Option>> found =
+                new IndexEngine(new Arena(args)).options(new Names(names));
+            MatcherAssert.assertThat(
+                found.keySet(),
+                Matchers.equalTo(new LinkedHashSet<>(names))
+            );
+            for (final String name : names) {
+                MatcherAssert.assertThat(
+                    String.format("%s in %s", name, String.join(",", args)),
+                    IndexEngineTest.found(found.get(name)),
+                    Matchers.equalTo(IndexEngineTest.found(regex, name))
+                );
+            }
+        }
+    }
+
+    /**
+     * Random text made of parts.
+     *
+     * @param random Random numbers.
+     * @param parts Maximal number of parts.
+     * @return Text.
+     */
+    private static String text(final Random random, final int parts) {
+        final StringBuilder text = new StringBuilder();
+        final int count = random.nextInt(parts + 1);
+        for (int part = 0; part < count; ++part) {
+            text.append(
+                IndexEngineTest.PARTS[
+                    random.nextInt(IndexEngineTest.PARTS.length)
+                ]
+            );
+        }
+        return text.toString();
+    }
+
+    /**
+     * Options found by engine, described by their key, value and
+     * arguments.
+     *
+     * @param engine Engine.
+     * @param name Option name.
+     * @return Descriptions of options.
+     */
+    private static List<String> found(final Engine engine, final String name) {
+        return IndexEngineTest.found(engine.options(name));
+    }
+
+    /**
+     * Options described by their key, value and arguments.
+     *
+     * @param options Options.
+     * @return Descriptions of options.
+     */
+    private static List<String> found(final Iterable<Option> options) {
+        final List<String> found = new ArrayList<>(0);
+        for (final Option option : options) {
+            found.add(
+                String.format(
+                    "%s|%s|%s",
+                    IndexEngineTest.outcome(option::key),
+                    IndexEngineTest.outcome(option::value),
+                    option.arguments()
+                )
+            );
+        }
+        return found;
+    }
+
+    /**
+     * Result of option method or name of exception it throws.
+     *
+     * @param method Option method.
+     * @return Result or exception name.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static String outcome(final Supplier<String> method) {
+        String outcome;
+        try {
+            outcome = method.get();
+        } catch (final RuntimeException ex) {
+            outcome = ex.getClass().getName();
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ReusableArgs} class.
+ *
+ * @since 1.4
+ */
+public final class ReusableArgsTest {
+    /**
+     * Can find options after reset.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findOptionsAfterReset() throws Exception {
+        final ReusableArgs args = new ReusableArgs("-Xmx2048m", "-Xms256m");
+        MatcherAssert.assertThat(
+            args.findFirstOption("Xmx").value(), Matchers.is("2048m")
+        );
+        args.reset("--max-depth=1", "-f", "file.txt", "-f", "other.txt");
+        MatcherAssert.assertThat(
+            args.findFirstOption("max-depth").value(), Matchers.is("1")
+        );
+        final List<Option> files = args.findOption("f");
+        MatcherAssert.assertThat(files, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            files.get(1).arguments(), Matchers.contains("file.txt")
+        );
+        MatcherAssert.assertThat(args.getOptions(), Matchers.hasSize(3));
+        MatcherAssert.assertThat(
+            args.getOperands(), Matchers.contains("file.txt", "other.txt")
+        );
+        args.reset("-v", "--", "-a", "b");
+        MatcherAssert.assertThat(
+            args.getOperands(), Matchers.contains("-a", "b")
+        );
+        args.reset();
+        MatcherAssert.assertThat(args.getOptions(), Matchers.empty());
+    }
+
+    /**
+     * Can not find first option.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test(expected = HelpException.class)
+    public void findFirstNoneOption() throws Exception {
+        new ReusableArgs("--du=1").findFirstOption("duplic");
+    }
+
+    /**
+     * Can suggest similar options when first option is not found.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestSimilarOptions() throws Exception {
+        final ReusableArgs args = new ReusableArgs(
+            new HelpException("Allowed is 'verbose'"),
+            new Suggestions("verbose", "help"),
+            "--help", "--verbse"
+        );
+        try {
+            args.findFirstOption("verbose");
+            MatcherAssert.assertThat("Exception expected", false);
+        } catch (final HelpException ex) {
+            MatcherAssert.assertThat(
+                ex.suggestions(), Matchers.contains("verbose")
+            );
+        }
+    }
+
+    /**
+     * Can find the same options as command line arguments.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void findSameAsCommandLineArgs() throws Exception {
+        final ReusableArgs reusable = new ReusableArgs();
+        final Names names = new Names("", "-", "D", "h", "c");
+        final String[][] vectors = {
+            {"-zxvf", "foo.tar.gz"},
+            {"-D", "p=1", "-Dq=2", "--D", "-Dq=2", "x"},
+            {"--help", "--human-readable", "-h", "a", "b", "c"},
+            {},
+            {"-a\nb", "--c", "-"},
+        };
+        for (final String[] vector : vectors) {
+            reusable.reset(vector);
+            final CommandLineArgs cli = new CommandLineArgs(vector);
+            for (final String name : names) {
+                MatcherAssert.assertThat(
+                    ReusableArgsTest.found(reusable.findOption(name)),
+                    Matchers.equalTo(
+                        ReusableArgsTest.found(cli.findOption(name))
+                    )
+                );
+            }
+            final Map<String, List<Option>> many = reusable.findOptions(names);
+            final Map<String, Iterable<Option>> expected =
+                cli.findOptions(names);
+            MatcherAssert.assertThat(
+                many.keySet(), Matchers.contains("", "-", "D", "h", "c")
+            );
+            for (final String name : names) {
+                MatcherAssert.assertThat(
+                    ReusableArgsTest.found(many.get(name)),
+                    Matchers.equalTo(
+                        ReusableArgsTest.found(expected.get(name))
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Can reuse options between resets.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void reuseOptions() throws Exception {
+        final ReusableArgs args = new ReusableArgs("-a", "-b");
+        final Option first = args.getOptions().get(0);
+        args.reset("--c=1", "d");
+        final Option second = args.getOptions().get(0);
+        MatcherAssert.assertThat(second, Matchers.sameInstance(first));
+        MatcherAssert.assertThat(second.value(), Matchers.is("1"));
+    }
+
+    /**
+     * Can parse without allocating memory once warmed up.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void parseWithoutAllocation() throws Exception {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(
+            bean instanceof com.sun.management.ThreadMXBean
+        );
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        final String[][] vectors = {
+            {"-Xmx2048m", "-Xms256m", "-Dp=1", "foo", "bar"},
+            {"-Xmx1g", "-Dq=2", "-Dp=1", "--", "baz"},
+        };
+        final ReusableArgs args = new ReusableArgs();
+        int found = 0;
+        for (int run = 0; run < 1000; ++run) {
+            found += args.reset(vectors[run % 2]).findOption("D").size();
+        }
+        final long tid = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(tid);
+        for (int run = 0; run < 10_000; ++run) {
+            found += args.reset(vectors[run % 2]).findOption("D").size();
+        }
+        final long allocated = threads.getThreadAllocatedBytes(tid) - before;
+        MatcherAssert.assertThat(found, Matchers.greaterThan(0));
+        MatcherAssert.assertThat(allocated, Matchers.lessThan(10_000L));
+    }
+
+    /**
+     * Options described by their key, value and arguments.
+     *
+     * @param options Options.
+     * @return Descriptions of options.
+     */
+    private static List<String> found(final Iterable<Option> options) {
+        final List<String> found = new ArrayList<>(0);
+        for (final Option option : options) {
+            found.add(
+                String.format(
+                    "%s|%s|%s", option.key(), option.value(),
+                    option.arguments()
+                )
+            );
+        }
+        return found;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Suggestions} class.
+ *
+ * @since 1.4
+ */
+public final class SuggestionsTest {
+    /**
+     * Can suggest nothing when there are no names.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestNothingWhenNoNames() throws Exception {
+        MatcherAssert.assertThat(
+            new Suggestions().similar("help"), Matchers.empty()
+        );
+    }
+
+    /**
+     * Can suggest nearest names first.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestNearestFirst() throws Exception {
+        MatcherAssert.assertThat(
+            new Suggestions(
+                "verbos", "verbose", "help", "verb", "verbose"
+            ).similar("verbse"),
+            Matchers.contains("verbose", "verb", "verbos")
+        );
+    }
+
+    /**
+     * Can suggest names similar to unknown options typed.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestForUnknownOptionsTyped() throws Exception {
+        MatcherAssert.assertThat(
+            new Suggestions("verbose", "version", "help").similar(
+                new CommandLineArgs(
+                    "--verbos", "--help", "-Xmx1g", "-hlep", "--verbos", "x"
+                ).getOptions()
+            ),
+            Matchers.contains("verbose", "help")
+        );
+    }
+
+    /**
+     * Can suggest names within given distance only.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestWithinDistance() throws Exception {
+        final Suggestions suggestions = new Suggestions(
+            1, "max-depth", "max-width", "human-readable"
+        );
+        MatcherAssert.assertThat(
+            suggestions.similar("max-dept"), Matchers.contains("max-depth")
+        );
+        MatcherAssert.assertThat(
+            suggestions.similar("min-dept"), Matchers.empty()
+        );
+    }
+
+    /**
+     * Can suggest the same names as exhaustive search.
+     *
+     * @throws Exception When it fails.
+     */
+    @Test
+    public void suggestSameAsExhaustiveSearch() throws Exception {
+        final List<String> names = new ArrayList<>(0);
+        for (int num = 0; num < 300; ++num) {
+            names.add(Integer.toString(num * 7919, 26));
+        }
+        final Suggestions suggestions = new Suggestions(2, names);
+        for (final String name : names) {
+            final String query = name.substring(1);
+            final List<String> expected = new ArrayList<>(0);
+            for (final String known : names) {
+                if (SuggestionsTest.edits(known, query) <= 2) {
+                    expected.add(known);
+                }
+            }
+            MatcherAssert.assertThat(
+                suggestions.similar(query),
+                Matchers.containsInAnyOrder(expected.toArray())
+            );
+        }
+    }
+
+    /**
+     * Levenshtein distance computed with full table.
+     *
+     * @param first First word.
+     * @param second Second word.
+     * @return Edit distance.
+     */
+    private static int edits(final String first, final String second) {
+        final int[][] dist = new int[first.length() + 1][second.length() + 1];
+        for (int row = 0; row <= first.length(); ++row) {
+            for (int col = 0; col <= second.length(); ++col) {
+                if (row == 0 || col == 0) {
+                    dist[row][col] = row + col;
+                } else {
+                    int cost = 1;
+                    if (first.charAt(row - 1) == second.charAt(col - 1)) {
+                        cost = 0;
+                    }
+                    dist[row][col] = Math.min(
+                        Math.min(dist[row - 1][col], dist[row][col - 1]) + 1,
+                        dist[row - 1][col - 1] + cost
+                    );
+                }
+            }
+        }
+        return dist[first.length()][second.length()];
+    }
+}